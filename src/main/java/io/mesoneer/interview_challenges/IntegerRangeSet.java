@@ -0,0 +1,694 @@
+package io.mesoneer.interview_challenges;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+
+/**
+ * An immutable, compressed set of {@code int} values built from {@code Range<Integer>} instances.
+ * <p>
+ * Values are grouped into chunks of 2^16 by their high 16 bits and every chunk is stored in the
+ * smallest of three containers (the Roaring bitmap layout): a sorted array for sparse chunks, a
+ * bitmap for dense chunks and a list of runs for long consecutive stretches.
+ */
+public final class IntegerRangeSet {
+
+    private static final int CHUNK_SIZE = 1 << 16;
+    private static final int MAX_ARRAY_CARDINALITY = 4096;
+    private static final int BITMAP_SIZE_IN_BYTES = CHUNK_SIZE / 8;
+
+    private static final byte ARRAY = 0;
+    private static final byte BITMAP = 1;
+    private static final byte RUN = 2;
+
+    private static final IntegerRangeSet EMPTY = new IntegerRangeSet(new char[0], new Container[0]);
+
+    private final char[] keys;
+    private final Container[] containers;
+
+    private IntegerRangeSet(char[] keys, Container[] containers) {
+        this.keys = keys;
+        this.containers = containers;
+    }
+
+    /**
+     * Returns the empty {@code IntegerRangeSet}.
+     */
+    public static IntegerRangeSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a new {@code IntegerRangeSet} containing every value contained in any of the given ranges.
+     */
+    @SafeVarargs
+    public static IntegerRangeSet of(Range<Integer>... ranges) {
+        return of(Arrays.asList(ranges));
+    }
+
+    /**
+     * Creates a new {@code IntegerRangeSet} containing every value contained in any of the given ranges.
+     * {@code Infinitive} bounds are mapped to {@link Integer#MIN_VALUE} and {@link Integer#MAX_VALUE}.
+     */
+    public static IntegerRangeSet of(Collection<Range<Integer>> ranges) {
+        // Each non empty range is packed as (lowerbound << 32 | upperbound) so that sorting
+        // the longs sorts the ranges by their lowerbound.
+        long[] packed = new long[ranges.size()];
+        int count = 0;
+        for (Range<Integer> range : ranges) {
+            long start = range.hasLowerbound()
+                    ? (long) range.lowerbound() + (range.isLowerboundClosed() ? 0 : 1)
+                    : Integer.MIN_VALUE;
+            long end = range.hasUpperbound()
+                    ? (long) range.upperbound() - (range.isUpperboundClosed() ? 0 : 1)
+                    : Integer.MAX_VALUE;
+            if (start <= end) {
+                packed[count++] = (start << 32) | (end & 0xFFFFFFFFL);
+            }
+        }
+        Arrays.sort(packed, 0, count);
+
+        Builder builder = new Builder();
+        long runStart = 0, runEnd = -1;
+        for (int i = 0; i < count; i++) {
+            long start = toUnsigned((int) (packed[i] >> 32));
+            long end = toUnsigned((int) packed[i]);
+            if (runEnd >= runStart && start <= runEnd + 1) {
+                runEnd = Math.max(runEnd, end);
+            } else {
+                builder.addRun(runStart, runEnd);
+                runStart = start;
+                runEnd = end;
+            }
+        }
+        builder.addRun(runStart, runEnd);
+        return builder.build();
+    }
+
+    /**
+     * Returns {@code true} if the given {@code value} is contained in this set.
+     */
+    public boolean contains(int value) {
+        long unsigned = toUnsigned(value);
+        int index = Arrays.binarySearch(keys, (char) (unsigned >>> 16));
+        return index >= 0 && containers[index].contains((int) (unsigned & 0xFFFF));
+    }
+
+    /**
+     * Returns the number of values contained in this set.
+     */
+    public long cardinality() {
+        long cardinality = 0;
+        for (Container container : containers) {
+            cardinality += container.cardinality();
+        }
+        return cardinality;
+    }
+
+    /**
+     * Returns {@code true} if this set contains no values.
+     */
+    public boolean isEmpty() {
+        return containers.length == 0;
+    }
+
+    /**
+     * Returns a new set containing the values contained in both this and the {@code other} set.
+     */
+    public IntegerRangeSet and(IntegerRangeSet other) {
+        Builder builder = new Builder();
+        int i = 0, j = 0;
+        while (i < keys.length && j < other.keys.length) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                builder.addContainer(keys[i], containers[i++].and(other.containers[j++]));
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns a new set containing the values contained in this or the {@code other} set.
+     */
+    public IntegerRangeSet or(IntegerRangeSet other) {
+        Builder builder = new Builder();
+        int i = 0, j = 0;
+        while (i < keys.length || j < other.keys.length) {
+            if (j == other.keys.length || (i < keys.length && keys[i] < other.keys[j])) {
+                builder.addContainer(keys[i], containers[i++]);
+            } else if (i == keys.length || keys[i] > other.keys[j]) {
+                builder.addContainer(other.keys[j], other.containers[j++]);
+            } else {
+                builder.addContainer(keys[i], containers[i++].or(other.containers[j++]));
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the approximate number of bytes this set occupies in memory.
+     */
+    public long sizeInBytes() {
+        long size = 2L * keys.length;
+        for (Container container : containers) {
+            size += container.sizeInBytes();
+        }
+        return size;
+    }
+
+    /**
+     * Writes this set to the given {@code out}. The result can be read back with {@link #deserialize(DataInput)}.
+     */
+    public void serialize(DataOutput out) throws IOException {
+        out.writeInt(keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            out.writeChar(keys[i]);
+            out.writeByte(containers[i].type());
+            containers[i].writeTo(out);
+        }
+    }
+
+    /**
+     * Reads a set previously written with {@link #serialize(DataOutput)}.
+     */
+    public static IntegerRangeSet deserialize(DataInput in) throws IOException {
+        int size = in.readInt();
+        char[] keys = new char[size];
+        Container[] containers = new Container[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = in.readChar();
+            byte type = in.readByte();
+            switch (type) {
+                case ARRAY:
+                    containers[i] = ArrayContainer.readFrom(in);
+                    break;
+                case BITMAP:
+                    containers[i] = BitmapContainer.readFrom(in);
+                    break;
+                case RUN:
+                    containers[i] = RunContainer.readFrom(in);
+                    break;
+                default:
+                    throw new IOException("Unknown container type " + type);
+            }
+        }
+        return new IntegerRangeSet(keys, containers);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IntegerRangeSet)) {
+            return false;
+        }
+        IntegerRangeSet other = (IntegerRangeSet) o;
+        if (!Arrays.equals(keys, other.keys)) {
+            return false;
+        }
+        for (int i = 0; i < containers.length; i++) {
+            if (!Arrays.equals(containers[i].runs(), other.containers[i].runs())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Arrays.hashCode(keys);
+        for (Container container : containers) {
+            hash = 31 * hash + Arrays.hashCode(container.runs());
+        }
+        return hash;
+    }
+
+    /**
+     * Maps a signed {@code int} onto {@code [0, 2^32)} while preserving its order.
+     */
+    private static long toUnsigned(int value) {
+        return (value ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Collects containers in ascending key order.
+     */
+    private static final class Builder {
+        private char[] keys = new char[4];
+        private Container[] containers = new Container[4];
+        private int size;
+
+        private int currentKey = -1;
+        private int[] currentRuns = new int[8];
+        private int currentRunCount;
+
+        /**
+         * Adds the values {@code [start, end]}, given in unsigned space, in ascending order.
+         */
+        void addRun(long start, long end) {
+            while (start <= end) {
+                int key = (int) (start >>> 16);
+                long chunkEnd = Math.min(end, ((long) key << 16) | 0xFFFF);
+                if (key != currentKey) {
+                    flush();
+                    currentKey = key;
+                }
+                if (currentRunCount * 2 == currentRuns.length) {
+                    currentRuns = Arrays.copyOf(currentRuns, currentRuns.length * 2);
+                }
+                currentRuns[currentRunCount * 2] = (int) (start & 0xFFFF);
+                currentRuns[currentRunCount * 2 + 1] = (int) (chunkEnd & 0xFFFF);
+                currentRunCount++;
+                start = chunkEnd + 1;
+            }
+        }
+
+        void addContainer(char key, Container container) {
+            if (container.cardinality() == 0) {
+                return;
+            }
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                containers = Arrays.copyOf(containers, size * 2);
+            }
+            keys[size] = key;
+            containers[size++] = container;
+        }
+
+        private void flush() {
+            if (currentRunCount > 0) {
+                addContainer((char) currentKey, Container.of(Arrays.copyOf(currentRuns, currentRunCount * 2)));
+                currentRunCount = 0;
+            }
+        }
+
+        IntegerRangeSet build() {
+            flush();
+            return size == 0 ? EMPTY : new IntegerRangeSet(Arrays.copyOf(keys, size), Arrays.copyOf(containers, size));
+        }
+    }
+
+    /**
+     * Holds the low 16 bits of the values sharing the same high 16 bits.
+     */
+    private abstract static class Container {
+
+        abstract boolean contains(int value);
+
+        abstract int cardinality();
+
+        /**
+         * Returns the consecutive stretches of this container as {@code start, end} pairs, both inclusive.
+         */
+        abstract int[] runs();
+
+        abstract int sizeInBytes();
+
+        abstract byte type();
+
+        abstract void writeTo(DataOutput out) throws IOException;
+
+        Container and(Container other) {
+            if (other instanceof BitmapContainer) {
+                return other.and(this);
+            }
+            int[] left = runs(), right = other.runs();
+            int[] result = new int[left.length + right.length];
+            int count = 0, i = 0, j = 0;
+            while (i < left.length && j < right.length) {
+                int start = Math.max(left[i], right[j]);
+                int end = Math.min(left[i + 1], right[j + 1]);
+                if (start <= end) {
+                    result[count++] = start;
+                    result[count++] = end;
+                }
+                if (left[i + 1] < right[j + 1]) {
+                    i += 2;
+                } else {
+                    j += 2;
+                }
+            }
+            return of(Arrays.copyOf(result, count));
+        }
+
+        Container or(Container other) {
+            if (other instanceof BitmapContainer) {
+                return other.or(this);
+            }
+            int[] left = runs(), right = other.runs();
+            int[] result = new int[left.length + right.length];
+            int count = 0, i = 0, j = 0;
+            while (i < left.length || j < right.length) {
+                int[] next;
+                if (j == right.length || (i < left.length && left[i] <= right[j])) {
+                    next = left;
+                } else {
+                    next = right;
+                }
+                int index = next == left ? i : j;
+                if (count > 0 && next[index] <= result[count - 1] + 1) {
+                    result[count - 1] = Math.max(result[count - 1], next[index + 1]);
+                } else {
+                    result[count++] = next[index];
+                    result[count++] = next[index + 1];
+                }
+                if (next == left) {
+                    i += 2;
+                } else {
+                    j += 2;
+                }
+            }
+            return of(Arrays.copyOf(result, count));
+        }
+
+        /**
+         * Creates the smallest container holding the given sorted, non adjacent runs.
+         */
+        static Container of(int[] runs) {
+            int cardinality = 0;
+            for (int i = 0; i < runs.length; i += 2) {
+                cardinality += runs[i + 1] - runs[i] + 1;
+            }
+            switch (smallestType(cardinality, runs.length / 2)) {
+                case RUN:
+                    return new RunContainer(runs);
+                case ARRAY:
+                    return ArrayContainer.fromRuns(runs, cardinality);
+                default:
+                    return BitmapContainer.fromRuns(runs);
+            }
+        }
+
+        /**
+         * Returns the type of the smallest container holding {@code cardinality} values in {@code runCount} runs.
+         */
+        static byte smallestType(int cardinality, int runCount) {
+            int runSize = 4 * runCount;
+            int arraySize = cardinality <= MAX_ARRAY_CARDINALITY ? 2 * cardinality : Integer.MAX_VALUE;
+            if (runSize <= arraySize && runSize <= BITMAP_SIZE_IN_BYTES) {
+                return RUN;
+            }
+            if (arraySize <= BITMAP_SIZE_IN_BYTES) {
+                return ARRAY;
+            }
+            return BITMAP;
+        }
+    }
+
+    private static final class ArrayContainer extends Container {
+        private final char[] values;
+
+        private ArrayContainer(char[] values) {
+            this.values = values;
+        }
+
+        static ArrayContainer fromRuns(int[] runs, int cardinality) {
+            char[] values = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < runs.length; i += 2) {
+                for (int value = runs[i]; value <= runs[i + 1]; value++) {
+                    values[count++] = (char) value;
+                }
+            }
+            return new ArrayContainer(values);
+        }
+
+        static ArrayContainer readFrom(DataInput in) throws IOException {
+            char[] values = new char[in.readInt()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = in.readChar();
+            }
+            return new ArrayContainer(values);
+        }
+
+        @Override
+        boolean contains(int value) {
+            return Arrays.binarySearch(values, (char) value) >= 0;
+        }
+
+        @Override
+        int cardinality() {
+            return values.length;
+        }
+
+        @Override
+        int[] runs() {
+            int[] runs = new int[values.length * 2];
+            int count = 0;
+            for (char value : values) {
+                if (count > 0 && value == runs[count - 1] + 1) {
+                    runs[count - 1] = value;
+                } else {
+                    runs[count++] = value;
+                    runs[count++] = value;
+                }
+            }
+            return Arrays.copyOf(runs, count);
+        }
+
+        @Override
+        int sizeInBytes() {
+            return 2 * values.length;
+        }
+
+        @Override
+        byte type() {
+            return ARRAY;
+        }
+
+        @Override
+        void writeTo(DataOutput out) throws IOException {
+            out.writeInt(values.length);
+            for (char value : values) {
+                out.writeChar(value);
+            }
+        }
+    }
+
+    private static final class BitmapContainer extends Container {
+        private final BitSet bits;
+        private final int cardinality;
+
+        private BitmapContainer(BitSet bits) {
+            this(bits, bits.cardinality());
+        }
+
+        private BitmapContainer(BitSet bits, int cardinality) {
+            this.bits = bits;
+            this.cardinality = cardinality;
+        }
+
+        static BitmapContainer fromRuns(int[] runs) {
+            BitSet bits = new BitSet(CHUNK_SIZE);
+            for (int i = 0; i < runs.length; i += 2) {
+                bits.set(runs[i], runs[i + 1] + 1);
+            }
+            return new BitmapContainer(bits);
+        }
+
+        static BitmapContainer readFrom(DataInput in) throws IOException {
+            long[] words = new long[CHUNK_SIZE / 64];
+            for (int i = 0; i < words.length; i++) {
+                words[i] = in.readLong();
+            }
+            return new BitmapContainer(BitSet.valueOf(words));
+        }
+
+        /**
+         * Probes the bitmap once per value of an array, clears the gaps between the runs of a list of runs
+         * and intersects the words of another bitmap.
+         */
+        @Override
+        Container and(Container other) {
+            BitSet result;
+            if (other instanceof ArrayContainer) {
+                result = new BitSet(CHUNK_SIZE);
+                for (char value : ((ArrayContainer) other).values) {
+                    if (bits.get(value)) {
+                        result.set(value);
+                    }
+                }
+            } else if (other instanceof RunContainer) {
+                RunContainer runs = (RunContainer) other;
+                result = (BitSet) bits.clone();
+                int start = 0;
+                for (int i = 0; i < runs.starts.length; i++) {
+                    result.clear(start, runs.starts[i]);
+                    start = runs.ends[i] + 1;
+                }
+                result.clear(start, CHUNK_SIZE);
+            } else {
+                result = (BitSet) bits.clone();
+                result.and(((BitmapContainer) other).bits);
+            }
+            return optimize(result);
+        }
+
+        /**
+         * Sets the values of an array, the runs of a list of runs or the words of another bitmap on a copy
+         * of this bitmap.
+         */
+        @Override
+        Container or(Container other) {
+            BitSet result = (BitSet) bits.clone();
+            if (other instanceof ArrayContainer) {
+                for (char value : ((ArrayContainer) other).values) {
+                    result.set(value);
+                }
+            } else if (other instanceof RunContainer) {
+                RunContainer runs = (RunContainer) other;
+                for (int i = 0; i < runs.starts.length; i++) {
+                    result.set(runs.starts[i], runs.ends[i] + 1);
+                }
+            } else {
+                result.or(((BitmapContainer) other).bits);
+            }
+            return optimize(result);
+        }
+
+        /**
+         * Keeps {@code bits} as a bitmap unless an array or a list of runs is smaller. Only then are the
+         * runs materialized, and there are at most {@code BITMAP_SIZE_IN_BYTES / 4} of them.
+         */
+        private static Container optimize(BitSet bits) {
+            int cardinality = bits.cardinality();
+            int runCount = 0;
+            long previous = 0;
+            for (long word : bits.toLongArray()) {
+                // A run starts at every set bit whose lower neighbour, possibly in the previous word, is clear.
+                runCount += Long.bitCount(word & ~((word << 1) | (previous >>> 63)));
+                previous = word;
+            }
+            BitmapContainer bitmap = new BitmapContainer(bits, cardinality);
+            return smallestType(cardinality, runCount) == BITMAP ? bitmap : of(bitmap.runs());
+        }
+
+        @Override
+        boolean contains(int value) {
+            return bits.get(value);
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        int[] runs() {
+            int[] runs = new int[8];
+            int count = 0;
+            for (int start = bits.nextSetBit(0); start >= 0; start = bits.nextSetBit(start)) {
+                int end = bits.nextClearBit(start);
+                if (count == runs.length) {
+                    runs = Arrays.copyOf(runs, count * 2);
+                }
+                runs[count++] = start;
+                runs[count++] = end - 1;
+                start = end;
+            }
+            return Arrays.copyOf(runs, count);
+        }
+
+        @Override
+        int sizeInBytes() {
+            return BITMAP_SIZE_IN_BYTES;
+        }
+
+        @Override
+        byte type() {
+            return BITMAP;
+        }
+
+        @Override
+        void writeTo(DataOutput out) throws IOException {
+            long[] words = Arrays.copyOf(bits.toLongArray(), CHUNK_SIZE / 64);
+            for (long word : words) {
+                out.writeLong(word);
+            }
+        }
+    }
+
+    private static final class RunContainer extends Container {
+        private final char[] starts;
+        private final char[] ends;
+
+        private RunContainer(char[] starts, char[] ends) {
+            this.starts = starts;
+            this.ends = ends;
+        }
+
+        RunContainer(int[] runs) {
+            this(new char[runs.length / 2], new char[runs.length / 2]);
+            for (int i = 0; i < starts.length; i++) {
+                starts[i] = (char) runs[2 * i];
+                ends[i] = (char) runs[2 * i + 1];
+            }
+        }
+
+        static RunContainer readFrom(DataInput in) throws IOException {
+            int size = in.readInt();
+            char[] starts = new char[size];
+            char[] ends = new char[size];
+            for (int i = 0; i < size; i++) {
+                starts[i] = in.readChar();
+                ends[i] = in.readChar();
+            }
+            return new RunContainer(starts, ends);
+        }
+
+        @Override
+        boolean contains(int value) {
+            int index = Arrays.binarySearch(starts, (char) value);
+            if (index >= 0) {
+                return true;
+            }
+            index = -index - 2;
+            return index >= 0 && value <= ends[index];
+        }
+
+        @Override
+        int cardinality() {
+            int cardinality = 0;
+            for (int i = 0; i < starts.length; i++) {
+                cardinality += ends[i] - starts[i] + 1;
+            }
+            return cardinality;
+        }
+
+        @Override
+        int[] runs() {
+            int[] runs = new int[starts.length * 2];
+            for (int i = 0; i < starts.length; i++) {
+                runs[2 * i] = starts[i];
+                runs[2 * i + 1] = ends[i];
+            }
+            return runs;
+        }
+
+        @Override
+        int sizeInBytes() {
+            return 4 * starts.length;
+        }
+
+        @Override
+        byte type() {
+            return RUN;
+        }
+
+        @Override
+        void writeTo(DataOutput out) throws IOException {
+            out.writeInt(starts.length);
+            for (int i = 0; i < starts.length; i++) {
+                out.writeChar(starts[i]);
+                out.writeChar(ends[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package io.mesoneer.interview_challenges;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+/**
+ * A column of numbers that can be updated in place and answers count, sum, min and max of the values
+ * contained in a {@code Range}.
+ * <p>
+ * The values are indexed in a treap, a binary search tree balanced by random priorities, whose nodes
+ * also hold the size and sum of their subtree. Queries and updates take {@code O(log n)} expected time.
+ * Sums only add up subtrees inside the {@code Range}, and are exact for integral values as in
+ * {@link RangeAggregation#sum(Range)}. This class is not thread safe.
+ */
+public final class MutableRangeAggregation<T extends Number & Comparable<T>> {
+
+    private final List<T> column = new ArrayList<>();
+    private final Random random = new Random();
+    private Node<T> root;
+
+    private final boolean integral;
+
+    private MutableRangeAggregation(boolean integral) {
+        this.integral = integral;
+    }
+
+    /**
+     * Creates a new {@code MutableRangeAggregation} over the given values, in their iteration order,
+     * whose type is the type of the first value.
+     *
+     * @throws IllegalArgumentException if there are no values to tell the type from
+     */
+    public static <T extends Number & Comparable<T>> MutableRangeAggregation<T> of(Collection<T> values) {
+        return of(RangeAggregation.Sum.typeOf(values), values);
+    }
+
+    /**
+     * Creates a new {@code MutableRangeAggregation} over the given values of the given {@code type},
+     * in their iteration order.
+     */
+    public static <T extends Number & Comparable<T>> MutableRangeAggregation<T> of(Class<? extends T> type,
+                                                                                  Collection<T> values) {
+        MutableRangeAggregation<T> aggregation = new MutableRangeAggregation<>(RangeAggregation.Sum.isIntegral(type));
+        for (T value : values) {
+            aggregation.add(value);
+        }
+        return aggregation;
+    }
+
+    /**
+     * Appends the given {@code value} to the column.
+     */
+    public void add(T value) {
+        if (value == null) {
+            throw new NullPointerException("Value cannot be null");
+        }
+        column.add(value);
+        root = insert(root, new Node<>(value, random.nextInt()));
+    }
+
+    /**
+     * Replaces the value at the given {@code index} of the column and returns the previous one.
+     */
+    public T set(int index, T value) {
+        if (value == null) {
+            throw new NullPointerException("Value cannot be null");
+        }
+        T previous = column.set(index, value);
+        root = remove(root, previous);
+        root = insert(root, new Node<>(value, random.nextInt()));
+        return previous;
+    }
+
+    /**
+     * Returns the value at the given {@code index} of the column.
+     */
+    public T get(int index) {
+        return column.get(index);
+    }
+
+    /**
+     * Returns the number of values in this column.
+     */
+    public int size() {
+        return column.size();
+    }
+
+    /**
+     * Returns the number of values contained in the given {@code range}.
+     */
+    public int count(Range<T> range) {
+        return Math.max(0, countBelowEnd(range) - countBelowStart(range));
+    }
+
+    /**
+     * Returns the sum of the values contained in the given {@code range}, zero if there are none.
+     * Like {@link RangeAggregation#sum(Range)} it is an exact {@link Long} for integral values.
+     *
+     * @throws ArithmeticException if the sum of integral values overflows a {@code long}
+     */
+    public Number sum(Range<T> range) {
+        RangeAggregation.Sum sum = new RangeAggregation.Sum(integral);
+        Node<T> node = root;
+        while (node != null) {
+            if (range.hasLowerbound() && isBelowStart(node.value, range)) {
+                node = node.right;
+            } else if (range.hasUpperbound() && isAboveEnd(node.value, range)) {
+                node = node.left;
+            } else {
+                break;
+            }
+        }
+        if (node == null) {
+            return sum.get();
+        }
+        sum.add(node.value);
+
+        // Below the first node in range, add every node not below the lowerbound with its right subtree.
+        for (Node<T> left = node.left; left != null; ) {
+            if (range.hasLowerbound() && isBelowStart(left.value, range)) {
+                left = left.right;
+            } else {
+                sum.add(left.value);
+                sum.addSubtotal(longSum(left.right), highSum(left.right), doubleSum(left.right));
+                left = left.left;
+            }
+        }
+        // Symmetrically, above it add every node not above the upperbound with its left subtree.
+        for (Node<T> right = node.right; right != null; ) {
+            if (range.hasUpperbound() && isAboveEnd(right.value, range)) {
+                right = right.left;
+            } else {
+                sum.add(right.value);
+                sum.addSubtotal(longSum(right.left), highSum(right.left), doubleSum(right.left));
+                right = right.right;
+            }
+        }
+        return sum.get();
+    }
+
+    /**
+     * Returns the smallest value contained in the given {@code range}.
+     */
+    public Optional<T> min(Range<T> range) {
+        Node<T> node = root, result = null;
+        while (node != null) {
+            if (range.hasLowerbound() && isBelowStart(node.value, range)) {
+                node = node.right;
+            } else {
+                result = node;
+                node = node.left;
+            }
+        }
+        return result != null && range.contains(result.value) ? Optional.of(result.value) : Optional.empty();
+    }
+
+    /**
+     * Returns the biggest value contained in the given {@code range}.
+     */
+    public Optional<T> max(Range<T> range) {
+        Node<T> node = root, result = null;
+        while (node != null) {
+            if (range.hasUpperbound() && isAboveEnd(node.value, range)) {
+                node = node.left;
+            } else {
+                result = node;
+                node = node.right;
+            }
+        }
+        return result != null && range.contains(result.value) ? Optional.of(result.value) : Optional.empty();
+    }
+
+    private int countBelowStart(Range<T> range) {
+        return range.hasLowerbound() ? countBelow(range.lowerbound(), !range.isLowerboundClosed()) : 0;
+    }
+
+    private int countBelowEnd(Range<T> range) {
+        return range.hasUpperbound() ? countBelow(range.upperbound(), range.isUpperboundClosed()) : size(root);
+    }
+
+    private static <T extends Comparable<T>> boolean isBelowStart(T value, Range<T> range) {
+        int result = value.compareTo(range.lowerbound());
+        return result < 0 || (result == 0 && !range.isLowerboundClosed());
+    }
+
+    private static <T extends Comparable<T>> boolean isAboveEnd(T value, Range<T> range) {
+        int result = value.compareTo(range.upperbound());
+        return result > 0 || (result == 0 && !range.isUpperboundClosed());
+    }
+
+    /**
+     * Returns the number of values smaller than {@code key}, or smaller than or equal to it when {@code inclusive}.
+     */
+    private int countBelow(T key, boolean inclusive) {
+        int count = 0;
+        Node<T> node = root;
+        while (node != null) {
+            int result = node.value.compareTo(key);
+            if (result < 0 || (inclusive && result == 0)) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    private static <T extends Number & Comparable<T>> Node<T> insert(Node<T> node, Node<T> inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (inserted.value.compareTo(node.value) < 0) {
+            node.left = insert(node.left, inserted);
+            if (node.left.priority > node.priority) {
+                return rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, inserted);
+            if (node.right.priority > node.priority) {
+                return rotateLeft(node);
+            }
+        }
+        return node.update();
+    }
+
+    /**
+     * Removes one node holding {@code value} from the subtree of {@code node}.
+     */
+    private static <T extends Number & Comparable<T>> Node<T> remove(Node<T> node, T value) {
+        int result = value.compareTo(node.value);
+        if (result == 0) {
+            return merge(node.left, node.right);
+        }
+        if (result < 0) {
+            node.left = remove(node.left, value);
+        } else {
+            node.right = remove(node.right, value);
+        }
+        return node.update();
+    }
+
+    private static <T extends Number & Comparable<T>> Node<T> rotateRight(Node<T> node) {
+        Node<T> left = node.left;
+        node.left = left.right;
+        left.right = node.update();
+        return left.update();
+    }
+
+    private static <T extends Number & Comparable<T>> Node<T> rotateLeft(Node<T> node) {
+        Node<T> right = node.right;
+        node.right = right.left;
+        right.left = node.update();
+        return right.update();
+    }
+
+    private static <T extends Number & Comparable<T>> Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return left.update();
+        }
+        right.left = merge(left, right.left);
+        return right.update();
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static long longSum(Node<?> node) {
+        return node == null ? 0 : node.longSum;
+    }
+
+    private static long highSum(Node<?> node) {
+        return node == null ? 0 : node.highSum;
+    }
+
+    private static double doubleSum(Node<?> node) {
+        return node == null ? 0 : node.doubleSum;
+    }
+
+    private static final class Node<T extends Number & Comparable<T>> {
+        private final T value;
+        private final int priority;
+        private Node<T> left, right;
+        private int size;
+        /**
+         * The 128 bit sum of the subtree as in {@code RangeAggregation.Sum}: {@code longSum} holds its low
+         * 64 bits and {@code highSum} its high 64 bits.
+         */
+        private long longSum, highSum;
+        private double doubleSum;
+
+        private Node(T value, int priority) {
+            this.value = value;
+            this.priority = priority;
+            update();
+        }
+
+        private Node<T> update() {
+            size = size(left) + size(right) + 1;
+            long childrenSum = longSum(left) + longSum(right);
+            highSum = highSum(left) + highSum(right) + (value.longValue() >> 63)
+                    + RangeAggregation.Sum.carry(longSum(left), longSum(right))
+                    + RangeAggregation.Sum.carry(childrenSum, value.longValue());
+            longSum = childrenSum + value.longValue();
+            doubleSum = doubleSum(left) + doubleSum(right) + value.doubleValue();
+            return this;
+        }
+    }
+}
@@ -262,4 +262,59 @@ public class Range<T extends Comparable<T>> {
         return upperbound.getValue();
     }
 
+    /**
+     * Returns {@code true} if the {@code lowerbound} of this {@code Range} is not {@code Infinitive}.
+     */
+    boolean hasLowerbound() {
+        return lowerbound != Bounder.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Returns {@code true} if the {@code upperbound} of this {@code Range} is not {@code Infinitive}.
+     */
+    boolean hasUpperbound() {
+        return upperbound != Bounder.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns {@code true} if the {@code lowerbound} itself is contained in this {@code Range}.
+     */
+    boolean isLowerboundClosed() {
+        return inclusive == Inclusive.BOTH || inclusive == Inclusive.START;
+    }
+
+    /**
+     * Returns {@code true} if the {@code upperbound} itself is contained in this {@code Range}.
+     */
+    boolean isUpperboundClosed() {
+        return inclusive == Inclusive.BOTH || inclusive == Inclusive.END;
+    }
+
+    /**
+     * Returns {@code true} if this {@code Range} contains no value at all, e.g. {@code (5, 5)}.
+     */
+    boolean isEmpty() {
+        return lowerbound.compareTo(upperbound) == 0 && inclusive != Inclusive.BOTH;
+    }
+
+    /**
+     * Compares the {@code lowerbound} of this and the {@code other} {@code Range}.
+     * On equal values a closed {@code lowerbound} comes before an open one.
+     */
+    int compareLowerbound(Range<T> other) {
+        int result = lowerbound.compareTo(other.lowerbound);
+        if (result != 0 || isLowerboundClosed() == other.isLowerboundClosed()) {
+            return result;
+        }
+        return isLowerboundClosed() ? -1 : 1;
+    }
+
+    /**
+     * Returns {@code true} if every value of this {@code Range} is smaller than every value of the {@code other}.
+     */
+    boolean isBefore(Range<T> other) {
+        int result = upperbound.compareTo(other.lowerbound);
+        return result < 0 || (result == 0 && !(isUpperboundClosed() && other.isLowerboundClosed()));
+    }
+
 }
@@ -0,0 +1,235 @@
+package io.mesoneer.interview_challenges;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * An immutable column of numbers answering count, sum, min and max of the values contained in a {@code Range}.
+ * <p>
+ * The values are kept sorted, so a {@code Range} maps to a slice of them with two binary searches instead
+ * of calling {@link Range#contains(Comparable)} on each value. Sums come from a segment tree over the sorted
+ * values which only adds up blocks inside the slice, so values outside the {@code Range} never cancel out.
+ */
+public final class RangeAggregation<T extends Number & Comparable<T>> {
+
+    private final T[] values;
+    private final boolean integral;
+
+    /**
+     * Bottom up segment trees: the values are the leaves at {@code [n, 2n)} and node {@code i} holds
+     * the sum of nodes {@code 2i} and {@code 2i + 1}. Only the ones matching {@code integral} are filled.
+     * Integral sums are 128 bit wide, split in {@code highSums} and {@code longSums}, so that they never overflow.
+     */
+    private final long[] longSums;
+    private final long[] highSums;
+    private final double[] doubleSums;
+
+    private RangeAggregation(T[] values, boolean integral) {
+        int n = values.length;
+        this.values = values;
+        this.integral = integral;
+        this.longSums = new long[integral ? 2 * n : 0];
+        this.highSums = new long[integral ? 2 * n : 0];
+        this.doubleSums = new double[integral ? 0 : 2 * n];
+        for (int i = 0; i < n; i++) {
+            if (integral) {
+                longSums[n + i] = values[i].longValue();
+                highSums[n + i] = longSums[n + i] >> 63;
+            } else {
+                doubleSums[n + i] = values[i].doubleValue();
+            }
+        }
+        for (int i = n - 1; i > 0; i--) {
+            if (integral) {
+                longSums[i] = longSums[2 * i] + longSums[2 * i + 1];
+                highSums[i] = highSums[2 * i] + highSums[2 * i + 1] + Sum.carry(longSums[2 * i], longSums[2 * i + 1]);
+            } else {
+                doubleSums[i] = doubleSums[2 * i] + doubleSums[2 * i + 1];
+            }
+        }
+    }
+
+    /**
+     * Creates a new {@code RangeAggregation} over the given values, whose type is the type of the first value.
+     *
+     * @throws IllegalArgumentException if there are no values to tell the type from
+     */
+    public static <T extends Number & Comparable<T>> RangeAggregation<T> of(Collection<T> values) {
+        return of(Sum.typeOf(values), values);
+    }
+
+    /**
+     * Creates a new {@code RangeAggregation} over the given values of the given {@code type}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Number & Comparable<T>> RangeAggregation<T> of(Class<? extends T> type, Collection<T> values) {
+        T[] sorted = values.toArray((T[]) new Number[values.size()]);
+        for (T value : sorted) {
+            if (value == null) {
+                throw new NullPointerException("Value cannot be null");
+            }
+        }
+        Arrays.sort(sorted);
+        return new RangeAggregation<>(sorted, Sum.isIntegral(type));
+    }
+
+    /**
+     * Returns the number of values contained in the given {@code range}.
+     */
+    public int count(Range<T> range) {
+        return Math.max(0, end(range) - start(range));
+    }
+
+    /**
+     * Returns the sum of the values contained in the given {@code range}, zero if there are none.
+     * <p>
+     * The sum is an exact {@link Long} when the type of the values is {@code Byte}, {@code Short}, {@code Integer}
+     * or {@code Long}, and a {@link Double} otherwise, even if there are no values.
+     *
+     * @throws ArithmeticException if the sum of integral values overflows a {@code long}
+     */
+    public Number sum(Range<T> range) {
+        int n = values.length;
+        Sum sum = new Sum(integral);
+        for (int low = start(range) + n, high = end(range) + n; low < high; low >>>= 1, high >>>= 1) {
+            if ((low & 1) == 1) {
+                sum.addSubtotal(integral ? longSums[low] : 0, integral ? highSums[low] : 0, integral ? 0 : doubleSums[low]);
+                low++;
+            }
+            if ((high & 1) == 1) {
+                high--;
+                sum.addSubtotal(integral ? longSums[high] : 0, integral ? highSums[high] : 0, integral ? 0 : doubleSums[high]);
+            }
+        }
+        return sum.get();
+    }
+
+    /**
+     * Returns the smallest value contained in the given {@code range}.
+     */
+    public Optional<T> min(Range<T> range) {
+        int start = start(range);
+        return start < end(range) ? Optional.of(values[start]) : Optional.empty();
+    }
+
+    /**
+     * Returns the biggest value contained in the given {@code range}.
+     */
+    public Optional<T> max(Range<T> range) {
+        int end = end(range);
+        return start(range) < end ? Optional.of(values[end - 1]) : Optional.empty();
+    }
+
+    /**
+     * Returns the number of values in this column.
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Returns the index of the first value not below the {@code lowerbound} of the given {@code range}.
+     */
+    private int start(Range<T> range) {
+        if (!range.hasLowerbound()) {
+            return 0;
+        }
+        return firstIndex(range.lowerbound(), !range.isLowerboundClosed());
+    }
+
+    /**
+     * Returns the index after the last value not above the {@code upperbound} of the given {@code range}.
+     */
+    private int end(Range<T> range) {
+        if (!range.hasUpperbound()) {
+            return values.length;
+        }
+        return firstIndex(range.upperbound(), range.isUpperboundClosed());
+    }
+
+    /**
+     * Returns the index of the first value bigger than {@code key}, or bigger than or equal to it
+     * when {@code strict} is {@code false}.
+     */
+    private int firstIndex(T key, boolean strict) {
+        int low = 0, high = values.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int result = values[middle].compareTo(key);
+            if (result < 0 || (strict && result == 0)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Accumulates a sum of values, exactly in 128 bits for integral values.
+     * <p>
+     * Integral subtotals are passed as their low 64 bits and their high 64 bits. Adding up at most
+     * 2^31 values of at most 2^63 never overflows 128 bits, so only the final sum has to fit a {@code long}.
+     */
+    static final class Sum {
+        private final boolean integral;
+        private long exact;
+        private long high;
+        private double approximate;
+
+        Sum(boolean integral) {
+            this.integral = integral;
+        }
+
+        static boolean isIntegral(Class<?> type) {
+            return type == Long.class || type == Integer.class || type == Short.class || type == Byte.class;
+        }
+
+        /**
+         * Returns the type of the first of the given {@code values}.
+         */
+        @SuppressWarnings("unchecked")
+        static <T> Class<? extends T> typeOf(Collection<T> values) {
+            if (values.isEmpty()) {
+                throw new IllegalArgumentException("Cannot tell the type of no values");
+            }
+            T first = values.iterator().next();
+            if (first == null) {
+                throw new NullPointerException("Value cannot be null");
+            }
+            return (Class<? extends T>) first.getClass();
+        }
+
+        /**
+         * Returns the carry out of the low 64 bits when adding {@code a} and {@code b}.
+         */
+        static long carry(long a, long b) {
+            return Long.compareUnsigned(a + b, a) < 0 ? 1 : 0;
+        }
+
+        void add(Number value) {
+            long exactValue = integral ? value.longValue() : 0;
+            addSubtotal(exactValue, exactValue >> 63, integral ? 0 : value.doubleValue());
+        }
+
+        void addSubtotal(long exactSubtotal, long highSubtotal, double approximateSubtotal) {
+            if (integral) {
+                high += highSubtotal + carry(exact, exactSubtotal);
+                exact += exactSubtotal;
+            } else {
+                approximate += approximateSubtotal;
+            }
+        }
+
+        /**
+         * @throws ArithmeticException if the sum of integral values overflows a {@code long}
+         */
+        Number get() {
+            if (integral && high != exact >> 63) {
+                throw new ArithmeticException("long overflow");
+            }
+            return integral ? (Number) exact : (Number) approximate;
+        }
+    }
+}
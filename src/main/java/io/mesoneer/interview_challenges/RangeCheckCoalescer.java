@@ -0,0 +1,197 @@
+package io.mesoneer.interview_challenges;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Coalesces identical {@code Range.Query} checks.
+ * <p>
+ * Concurrent checks of the same query wait for a single evaluation, and its response is reused
+ * for the following {@code range.coalescing.window-millis} (5 by default, 0 to only share in-flight checks).
+ * At most {@code MAX_MEMO_SIZE} responses are remembered; beyond that the oldest one is dropped.
+ */
+@Component
+public class RangeCheckCoalescer {
+
+    static final int MAX_MEMO_SIZE = 10_000;
+
+    private final long windowNanos;
+
+    private final Map<Key, CompletableFuture<ResponseEntity<Range.Response>>> inFlight = new ConcurrentHashMap<>();
+    private final Map<Key, Memo> memos = new ConcurrentHashMap<>();
+
+    /**
+     * Every remembered {@code Memo} from the oldest to the newest, including the expired ones still waiting
+     * to be dropped. Beyond {@code MAX_MEMO_SIZE} the oldest are dropped from both the queue and {@code memos}.
+     */
+    private final Queue<Memo> memoQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger memoQueueSize = new AtomicInteger();
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong evaluations = new AtomicLong();
+
+    public static class Metrics {
+        public long requests;
+        public long evaluations;
+        public double coalescingRatio;
+
+        public Metrics() {
+        }
+
+        public Metrics(long requests, long evaluations) {
+            this.requests = requests;
+            this.evaluations = evaluations;
+            this.coalescingRatio = requests == 0 ? 0 : 1 - (double) evaluations / requests;
+        }
+    }
+
+    public RangeCheckCoalescer(@Value("${range.coalescing.window-millis:5}") long windowMillis) {
+        if (windowMillis < 0) {
+            throw new IllegalArgumentException("Coalescing window cannot be negative");
+        }
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+    }
+
+    /**
+     * Returns the response of {@code evaluator} for the given {@code query}, sharing it with every
+     * identical query arriving while it runs or within the coalescing window.
+     */
+    public ResponseEntity<Range.Response> check(Range.Query query,
+                                                Function<Range.Query, ResponseEntity<Range.Response>> evaluator) {
+        requests.incrementAndGet();
+        Key key = new Key(query.range, query.value);
+
+        ResponseEntity<Range.Response> remembered = remembered(key);
+        if (remembered != null) {
+            return remembered;
+        }
+
+        CompletableFuture<ResponseEntity<Range.Response>> future = new CompletableFuture<>();
+        CompletableFuture<ResponseEntity<Range.Response>> running = inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                // Rethrow the failure of the evaluation as is, like the check that ran it.
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw e;
+            }
+        }
+
+        try {
+            // A previous evaluation may have completed between the first lookup and putIfAbsent.
+            ResponseEntity<Range.Response> response = remembered(key);
+            if (response == null) {
+                evaluations.incrementAndGet();
+                response = evaluator.apply(query);
+                if (windowNanos > 0) {
+                    remember(key, response);
+                }
+            }
+            future.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * Returns the number of checks and evaluations since startup.
+     */
+    public Metrics metrics() {
+        return new Metrics(requests.get(), evaluations.get());
+    }
+
+    /**
+     * Returns the remembered response for {@code key}, or {@code null} if there is none within the window.
+     */
+    private ResponseEntity<Range.Response> remembered(Key key) {
+        Memo memo = memos.get(key);
+        if (memo == null) {
+            return null;
+        }
+        if (memo.expiresAt - System.nanoTime() > 0) {
+            return memo.response;
+        }
+        memos.remove(key, memo);
+        return null;
+    }
+
+    /**
+     * Remembers {@code response} for {@code key}, then drops the oldest memos beyond {@code MAX_MEMO_SIZE}.
+     */
+    private void remember(Key key, ResponseEntity<Range.Response> response) {
+        Memo memo = new Memo(key, response, System.nanoTime() + windowNanos);
+        memos.put(key, memo);
+        memoQueue.add(memo);
+        memoQueueSize.incrementAndGet();
+        while (memoQueueSize.get() > MAX_MEMO_SIZE) {
+            Memo eldest = memoQueue.poll();
+            if (eldest == null) {
+                break;
+            }
+            memoQueueSize.decrementAndGet();
+            memos.remove(eldest.key, eldest);
+        }
+    }
+
+    private static final class Key {
+        private final String range;
+        private final String value;
+
+        private Key(String range, String value) {
+            this.range = range;
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return Objects.equals(range, other.range) && Objects.equals(value, other.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(range, value);
+        }
+    }
+
+    private static final class Memo {
+        private final Key key;
+        private final ResponseEntity<Range.Response> response;
+        private final long expiresAt;
+
+        private Memo(Key key, ResponseEntity<Range.Response> response, long expiresAt) {
+            this.key = key;
+            this.response = response;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -8,8 +8,23 @@ import org.springframework.web.bind.annotation.*;
 @RestController
 @RequestMapping("/api")
 public class RangeController {
+    private final RangeCheckCoalescer coalescer;
+
+    public RangeController(RangeCheckCoalescer coalescer) {
+        this.coalescer = coalescer;
+    }
+
     @PostMapping("/range")
     public  ResponseEntity<Range.Response> checkRange(@RequestBody Range.Query query) {
+        return coalescer.check(query, this::evaluate);
+    }
+
+    @GetMapping("/range/metrics")
+    public ResponseEntity<RangeCheckCoalescer.Metrics> metrics() {
+        return ResponseEntity.ok(coalescer.metrics());
+    }
+
+    private ResponseEntity<Range.Response> evaluate(Range.Query query) {
         try {
             Range<Integer> range = Range.parse(query.range, Integer::parseInt);
             return ResponseEntity.ok(new Range.Response(range.contains(Integer.parseInt(query.value)), null));
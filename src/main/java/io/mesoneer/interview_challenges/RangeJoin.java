@@ -0,0 +1,170 @@
+package io.mesoneer.interview_challenges;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BiConsumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Finds every overlapping pair between two collections of {@code Range}s.
+ * <p>
+ * Both sides are sorted by their {@code lowerbound} and swept once, keeping only the ranges that are
+ * still open at the current position. The cost is {@code O(n log n + k)} for {@code k} emitted pairs,
+ * instead of comparing every range with every other one.
+ */
+public final class RangeJoin {
+
+    private RangeJoin() {
+    }
+
+    /**
+     * Calls {@code consumer} with every pair of a range from {@code left} and a range from {@code right}
+     * that share at least one value. Pairs are emitted in order of the later starting range.
+     */
+    public static <T extends Comparable<T>> void join(Collection<Range<T>> left, Collection<Range<T>> right,
+                                                      BiConsumer<Range<T>, Range<T>> consumer) {
+        Entry<T>[] entries = sort(left, right);
+        sweep(entries, 0, entries.length, new ArrayList<>(), consumer);
+    }
+
+    /**
+     * Same as {@link #join(Collection, Collection, BiConsumer)} but runs in the common {@link ForkJoinPool}.
+     */
+    public static <T extends Comparable<T>> void parallelJoin(Collection<Range<T>> left, Collection<Range<T>> right,
+                                                              BiConsumer<Range<T>, Range<T>> consumer) {
+        parallelJoin(left, right, consumer, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Same as {@link #join(Collection, Collection, BiConsumer)} but splits the sorted ranges into partitions
+     * that are swept concurrently in the given {@code pool}. Each pair is emitted by the partition holding
+     * its later starting range, so {@code consumer} must be thread safe and pairs arrive in no particular order.
+     * <p>
+     * A partition only needs the earlier ranges reaching into it. Those are found by carrying the ranges that
+     * cross each partition boundary forward, so no partition rescans the ranges before it.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Comparable<T>> void parallelJoin(Collection<Range<T>> left, Collection<Range<T>> right,
+                                                              BiConsumer<Range<T>, Range<T>> consumer, ForkJoinPool pool) {
+        Entry<T>[] entries = sort(left, right);
+        int partitions = Math.max(1, Math.min(entries.length, pool.getParallelism() * 4));
+        int[] starts = new int[partitions + 1];
+        for (int p = 0; p <= partitions; p++) {
+            starts[p] = (int) ((long) entries.length * p / partitions);
+        }
+
+        // The ranges of each partition that reach past its end.
+        List<Entry<T>>[] crossing = new List[partitions];
+        pool.invoke(new PartitionTask(0, partitions, p -> {
+            crossing[p] = new ArrayList<>();
+            if (p + 1 < partitions) {
+                Range<T> next = entries[starts[p + 1]].range;
+                for (int i = starts[p]; i < starts[p + 1]; i++) {
+                    if (!entries[i].range.isBefore(next)) {
+                        crossing[p].add(entries[i]);
+                    }
+                }
+            }
+        }));
+
+        // The earlier ranges reaching into each partition, carried from one boundary to the next.
+        List<Entry<T>>[] carried = new List[partitions];
+        carried[0] = new ArrayList<>();
+        for (int p = 1; p < partitions; p++) {
+            Range<T> first = entries[starts[p]].range;
+            carried[p] = new ArrayList<>();
+            for (Entry<T> entry : carried[p - 1]) {
+                if (!entry.range.isBefore(first)) {
+                    carried[p].add(entry);
+                }
+            }
+            carried[p].addAll(crossing[p - 1]);
+        }
+
+        pool.invoke(new PartitionTask(0, partitions, p -> sweep(entries, starts[p], starts[p + 1], carried[p], consumer)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<T>> Entry<T>[] sort(Collection<Range<T>> left, Collection<Range<T>> right) {
+        Entry<T>[] entries = new Entry[left.size() + right.size()];
+        int count = 0;
+        for (Range<T> range : left) {
+            if (!range.isEmpty()) {
+                entries[count++] = new Entry<>(range, true);
+            }
+        }
+        for (Range<T> range : right) {
+            if (!range.isEmpty()) {
+                entries[count++] = new Entry<>(range, false);
+            }
+        }
+        entries = Arrays.copyOf(entries, count);
+        Arrays.sort(entries, (a, b) -> a.range.compareLowerbound(b.range));
+        return entries;
+    }
+
+    /**
+     * Emits the pairs whose later starting range is in {@code entries[from, to)}, given the earlier
+     * ranges that reach into it.
+     */
+    private static <T extends Comparable<T>> void sweep(Entry<T>[] entries, int from, int to, List<Entry<T>> carried,
+                                                        BiConsumer<Range<T>, Range<T>> consumer) {
+        List<Range<T>> activeLeft = new ArrayList<>();
+        List<Range<T>> activeRight = new ArrayList<>();
+        for (Entry<T> entry : carried) {
+            (entry.left ? activeLeft : activeRight).add(entry.range);
+        }
+
+        for (int i = from; i < to; i++) {
+            Entry<T> entry = entries[i];
+            List<Range<T>> others = entry.left ? activeRight : activeLeft;
+            others.removeIf(other -> other.isBefore(entry.range));
+            for (Range<T> other : others) {
+                if (entry.left) {
+                    consumer.accept(entry.range, other);
+                } else {
+                    consumer.accept(other, entry.range);
+                }
+            }
+            (entry.left ? activeLeft : activeRight).add(entry.range);
+        }
+    }
+
+    private static final class Entry<T extends Comparable<T>> {
+        private final Range<T> range;
+        private final boolean left;
+
+        private Entry(Range<T> range, boolean left) {
+            this.range = range;
+            this.left = left;
+        }
+    }
+
+    /**
+     * Runs {@code action} for the partitions {@code [from, to)}, splitting them in halves until one is left.
+     */
+    private static final class PartitionTask extends RecursiveAction {
+        private final int from, to;
+        private final IntConsumer action;
+
+        private PartitionTask(int from, int to, IntConsumer action) {
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new PartitionTask(from, middle, action), new PartitionTask(middle, to, action));
+            } else if (from < to) {
+                action.accept(from);
+            }
+        }
+    }
+}
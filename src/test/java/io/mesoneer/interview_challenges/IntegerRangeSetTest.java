@@ -0,0 +1,184 @@
+package io.mesoneer.interview_challenges;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class IntegerRangeSetTest {
+
+    /**
+     * Shallow sizes on a 64-bit HotSpot JVM with compressed oops (12 byte headers, 4 byte references,
+     * 8 byte alignment) of one closed {@code Range<Integer>} held in an {@code ArrayList}:
+     * the {@code Range} (24), two {@code Bounder}s (2 * 16), two {@code Optional}s (2 * 16),
+     * two uncached {@code Integer}s (2 * 16) and the list slot (4).
+     */
+    private static final long RANGE_LIST_ENTRY_SIZE_IN_BYTES = 24 + 2 * 16 + 2 * 16 + 2 * 16 + 4;
+
+    private static final int CHUNK_END = 1 << 16;
+
+    @Test
+    public void should_contain_values_of_all_ranges() {
+        IntegerRangeSet set = IntegerRangeSet.of(Range.closed(5, 10), Range.open(20, 30), Range.closedOpen(100, 200));
+
+        assertThat(set.contains(4)).isEqualTo(false);
+        assertThat(set.contains(5)).isEqualTo(true);
+        assertThat(set.contains(10)).isEqualTo(true);
+        assertThat(set.contains(11)).isEqualTo(false);
+
+        assertThat(set.contains(20)).isEqualTo(false);
+        assertThat(set.contains(21)).isEqualTo(true);
+        assertThat(set.contains(29)).isEqualTo(true);
+        assertThat(set.contains(30)).isEqualTo(false);
+
+        assertThat(set.contains(100)).isEqualTo(true);
+        assertThat(set.contains(199)).isEqualTo(true);
+        assertThat(set.contains(200)).isEqualTo(false);
+
+        assertThat(set.cardinality()).isEqualTo(6 + 9 + 100);
+    }
+
+    @Test
+    public void should_merge_overlapping_and_adjacent_ranges() {
+        IntegerRangeSet set = IntegerRangeSet.of(Range.closed(1, 5), Range.closed(6, 10), Range.closed(3, 8));
+
+        assertThat(set.cardinality()).isEqualTo(10);
+        assertThat(set).isEqualTo(IntegerRangeSet.of(Range.closed(1, 10)));
+    }
+
+    @Test
+    public void should_support_open_ended_ranges() {
+        IntegerRangeSet set = IntegerRangeSet.of(Range.lessThan(-5), Range.atLeast(70000));
+
+        assertThat(set.contains(Integer.MIN_VALUE)).isEqualTo(true);
+        assertThat(set.contains(-6)).isEqualTo(true);
+        assertThat(set.contains(-5)).isEqualTo(false);
+        assertThat(set.contains(69999)).isEqualTo(false);
+        assertThat(set.contains(70000)).isEqualTo(true);
+        assertThat(set.contains(Integer.MAX_VALUE)).isEqualTo(true);
+
+        assertThat(IntegerRangeSet.of(Range.<Integer>all()).cardinality()).isEqualTo(1L << 32);
+    }
+
+    @Test
+    public void should_ignore_empty_ranges() {
+        IntegerRangeSet set = IntegerRangeSet.of(Range.open(5, 6), Range.closedOpen(7, 7));
+
+        assertThat(set.isEmpty()).isEqualTo(true);
+        assertThat(set.contains(5)).isEqualTo(false);
+        assertThat(set).isEqualTo(IntegerRangeSet.empty());
+    }
+
+    @Test
+    public void and_should_keep_common_values() {
+        IntegerRangeSet evens = evenNumbersBelow(200000);
+        IntegerRangeSet window = IntegerRangeSet.of(Range.closed(1000, 70000), Range.closed(150000, 150010));
+
+        IntegerRangeSet result = evens.and(window);
+
+        assertThat(result.contains(1000)).isEqualTo(true);
+        assertThat(result.contains(1001)).isEqualTo(false);
+        assertThat(result.contains(70000)).isEqualTo(true);
+        assertThat(result.contains(70002)).isEqualTo(false);
+        assertThat(result.contains(150010)).isEqualTo(true);
+        assertThat(result.cardinality()).isEqualTo(34501 + 6);
+        assertThat(evens.and(evens)).isEqualTo(evens);
+        assertThat(evens.and(IntegerRangeSet.empty()).isEmpty()).isEqualTo(true);
+    }
+
+    @Test
+    public void or_should_keep_values_of_either_set() {
+        IntegerRangeSet evens = evenNumbersBelow(200000);
+        IntegerRangeSet odds = IntegerRangeSet.of(oddRangesBelow(200000));
+
+        IntegerRangeSet result = evens.or(odds);
+
+        assertThat(result).isEqualTo(IntegerRangeSet.of(Range.closedOpen(0, 200000)));
+        assertThat(result.cardinality()).isEqualTo(200000);
+        // Two bitmaps covering each other's gaps collapse into one run per chunk.
+        assertThat(result.sizeInBytes()).isLessThan(100L);
+        assertThat(evens.and(odds).isEmpty()).isEqualTo(true);
+        assertThat(evens.or(IntegerRangeSet.empty())).isEqualTo(evens);
+    }
+
+    @Test
+    public void and_or_should_combine_bitmaps_with_arrays_and_runs() {
+        IntegerRangeSet evens = evenNumbersBelow(CHUNK_END);
+        List<Range<Integer>> sparseRanges = new ArrayList<>();
+        for (int i = 0; i < CHUNK_END; i += 37) {
+            sparseRanges.add(Range.closed(i, i));
+        }
+        IntegerRangeSet sparse = IntegerRangeSet.of(sparseRanges);
+        IntegerRangeSet runs = IntegerRangeSet.of(Range.closed(100, 5000), Range.closed(30001, 30001),
+                Range.closedOpen(60000, CHUNK_END));
+
+        for (IntegerRangeSet other : new IntegerRangeSet[]{sparse, runs}) {
+            IntegerRangeSet and = evens.and(other), reversedAnd = other.and(evens);
+            IntegerRangeSet or = evens.or(other), reversedOr = other.or(evens);
+            for (int value = 0; value < CHUNK_END; value++) {
+                boolean even = value % 2 == 0;
+                assertThat(and.contains(value)).isEqualTo(even && other.contains(value));
+                assertThat(or.contains(value)).isEqualTo(even || other.contains(value));
+            }
+            assertThat(reversedAnd).isEqualTo(and);
+            assertThat(reversedOr).isEqualTo(or);
+        }
+    }
+
+    @Test
+    public void should_serialize_and_deserialize() throws IOException {
+        IntegerRangeSet set = evenNumbersBelow(200000)
+                .or(IntegerRangeSet.of(Range.closed(-3000000, -1000000), Range.closed(5000000, 5000003)));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        set.serialize(new DataOutputStream(bytes));
+        IntegerRangeSet copy = IntegerRangeSet.deserialize(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertThat(copy).isEqualTo(set);
+        assertThat(copy.cardinality()).isEqualTo(set.cardinality());
+        assertThat(copy.contains(-2000000)).isEqualTo(true);
+        assertThat(copy.contains(5000003)).isEqualTo(true);
+        assertThat(copy.contains(5000004)).isEqualTo(false);
+    }
+
+    @Test
+    public void should_take_less_memory_than_a_list_of_ranges() {
+        List<Range<Integer>> ranges = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            ranges.add(Range.closedOpen(i * 10, i * 10 + 3));
+        }
+
+        IntegerRangeSet set = IntegerRangeSet.of(ranges);
+
+        long rangeListSize = RANGE_LIST_ENTRY_SIZE_IN_BYTES * ranges.size();
+        assertThat(set.cardinality()).isEqualTo(300000);
+        assertThat(set.sizeInBytes()).isLessThan(rangeListSize / 10);
+        for (Range<Integer> range : ranges) {
+            assertThat(set.contains(range.lowerbound())).isEqualTo(true);
+            assertThat(set.contains(range.upperbound())).isEqualTo(false);
+        }
+    }
+
+    private static IntegerRangeSet evenNumbersBelow(int limit) {
+        List<Range<Integer>> ranges = new ArrayList<>();
+        for (int i = 0; i < limit; i += 2) {
+            ranges.add(Range.closed(i, i));
+        }
+        return IntegerRangeSet.of(ranges);
+    }
+
+    private static List<Range<Integer>> oddRangesBelow(int limit) {
+        List<Range<Integer>> ranges = new ArrayList<>();
+        for (int i = 1; i < limit; i += 2) {
+            ranges.add(Range.openClosed(i - 1, i));
+        }
+        return ranges;
+    }
+}
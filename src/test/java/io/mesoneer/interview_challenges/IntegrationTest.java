@@ -11,7 +11,7 @@ import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
-@SpringBootTest
+@SpringBootTest(properties = "range.coalescing.window-millis=60000")
 @AutoConfigureMockMvc
 public class IntegrationTest {
 
@@ -100,4 +100,35 @@ public class IntegrationTest {
         assert result.getResponse().getStatus() == 400;
     }
 
+    @Test
+    public void testShouldNotEvaluateRepeatedQueryWithinWindow() throws Exception {
+
+        String requestBody = "{\"value\": \"7\", \"range\": \"[1,77]\"}";
+
+        mvc.perform(MockMvcRequestBuilders.post("/api/range")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        RangeCheckCoalescer.Metrics before = metrics();
+
+        mvc.perform(MockMvcRequestBuilders.post("/api/range")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        RangeCheckCoalescer.Metrics after = metrics();
+
+        assert after.requests == before.requests + 1;
+        assert after.evaluations == before.evaluations;
+        assert after.coalescingRatio > 0;
+    }
+
+    private RangeCheckCoalescer.Metrics metrics() throws Exception {
+        MvcResult result = mvc.perform(MockMvcRequestBuilders.get("/api/range/metrics"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        return objectMapper.readValue(result.getResponse().getContentAsString(), RangeCheckCoalescer.Metrics.class);
+    }
+
 }
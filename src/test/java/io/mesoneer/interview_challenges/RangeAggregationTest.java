@@ -0,0 +1,201 @@
+package io.mesoneer.interview_challenges;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class RangeAggregationTest {
+
+    private static final List<Integer> VALUES = Arrays.asList(7, 3, 5, 5, 10, 1, 8);
+
+    @Test
+    public void should_aggregate_values_in_closed_range() {
+        RangeAggregation<Integer> aggregation = RangeAggregation.of(VALUES);
+
+        assertThat(aggregation.count(Range.closed(3, 8))).isEqualTo(5);
+        assertThat(aggregation.sum(Range.closed(3, 8))).isEqualTo(28L);
+        assertThat(aggregation.min(Range.closed(3, 8))).isEqualTo(Optional.of(3));
+        assertThat(aggregation.max(Range.closed(3, 8))).isEqualTo(Optional.of(8));
+    }
+
+    @Test
+    public void should_honor_open_bounds() {
+        RangeAggregation<Integer> aggregation = RangeAggregation.of(VALUES);
+
+        assertThat(aggregation.count(Range.open(3, 8))).isEqualTo(3);
+        assertThat(aggregation.sum(Range.open(3, 8))).isEqualTo(17L);
+        assertThat(aggregation.min(Range.open(3, 8))).isEqualTo(Optional.of(5));
+        assertThat(aggregation.max(Range.open(3, 8))).isEqualTo(Optional.of(7));
+
+        assertThat(aggregation.count(Range.openClosed(5, 10))).isEqualTo(3);
+        assertThat(aggregation.count(Range.closedOpen(5, 10))).isEqualTo(4);
+    }
+
+    @Test
+    public void should_support_open_ended_ranges() {
+        RangeAggregation<Integer> aggregation = RangeAggregation.of(VALUES);
+
+        assertThat(aggregation.count(Range.lessThan(5))).isEqualTo(2);
+        assertThat(aggregation.sum(Range.atMost(5))).isEqualTo(14L);
+        assertThat(aggregation.min(Range.greaterThan(5))).isEqualTo(Optional.of(7));
+        assertThat(aggregation.max(Range.atLeast(5))).isEqualTo(Optional.of(10));
+        assertThat(aggregation.count(Range.all())).isEqualTo(7);
+        assertThat(aggregation.sum(Range.all())).isEqualTo(39L);
+    }
+
+    @Test
+    public void should_return_nothing_for_ranges_without_values() {
+        RangeAggregation<Integer> aggregation = RangeAggregation.of(VALUES);
+
+        assertThat(aggregation.count(Range.open(5, 5))).isEqualTo(0);
+        assertThat(aggregation.sum(Range.open(5, 7))).isEqualTo(0L);
+        assertThat(aggregation.min(Range.greaterThan(10))).isEqualTo(Optional.empty());
+        assertThat(aggregation.max(Range.lessThan(1))).isEqualTo(Optional.empty());
+        assertThat(RangeAggregation.of(Integer.class, Collections.emptyList()).count(Range.all())).isEqualTo(0);
+    }
+
+    @Test
+    public void sum_should_have_the_same_type_for_every_column_of_a_type() {
+        assertThat(RangeAggregation.of(Double.class, Collections.emptyList()).sum(Range.all())).isEqualTo(0.0);
+        assertThat(RangeAggregation.of(Arrays.asList(1.0, 2.0)).sum(Range.lessThan(0.0))).isEqualTo(0.0);
+        assertThat(RangeAggregation.of(Long.class, Collections.emptyList()).sum(Range.all())).isEqualTo(0L);
+
+        MutableRangeAggregation<Double> doubles = MutableRangeAggregation.of(Double.class, Collections.emptyList());
+        assertThat(doubles.sum(Range.all())).isEqualTo(0.0);
+        doubles.add(2.0);
+        assertThat(doubles.sum(Range.all())).isEqualTo(2.0);
+        assertThat(MutableRangeAggregation.of(Short.class, Collections.emptyList()).sum(Range.all())).isEqualTo(0L);
+
+        assertThatThrownBy(() -> RangeAggregation.of(Collections.<Double>emptyList())).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MutableRangeAggregation.of(Collections.<Double>emptyList())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void mutable_aggregation_should_reflect_updates() {
+        MutableRangeAggregation<Integer> aggregation = MutableRangeAggregation.of(VALUES);
+
+        assertThat(aggregation.count(Range.closed(3, 8))).isEqualTo(5);
+        assertThat(aggregation.sum(Range.closed(3, 8))).isEqualTo(28L);
+
+        assertThat(aggregation.set(0, 20)).isEqualTo(7);
+        aggregation.add(4);
+
+        assertThat(aggregation.get(0)).isEqualTo(20);
+        assertThat(aggregation.size()).isEqualTo(8);
+        assertThat(aggregation.count(Range.closed(3, 8))).isEqualTo(5);
+        assertThat(aggregation.sum(Range.closed(3, 8))).isEqualTo(25L);
+        assertThat(aggregation.min(Range.open(3, 8))).isEqualTo(Optional.of(4));
+        assertThat(aggregation.max(Range.open(3, 8))).isEqualTo(Optional.of(5));
+        assertThat(aggregation.max(Range.all())).isEqualTo(Optional.of(20));
+        assertThat(aggregation.min(Range.greaterThan(20))).isEqualTo(Optional.empty());
+    }
+
+    @Test
+    public void should_match_scanning_with_contains() {
+        Random random = new Random(42);
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            values.add(random.nextInt(500));
+        }
+        MutableRangeAggregation<Integer> mutable = MutableRangeAggregation.of(values);
+        for (int i = 0; i < 500; i++) {
+            int index = random.nextInt(values.size());
+            int value = random.nextInt(500);
+            values.set(index, value);
+            mutable.set(index, value);
+        }
+        RangeAggregation<Integer> updated = RangeAggregation.of(values);
+
+        for (int i = 0; i < 200; i++) {
+            int lowerbound = random.nextInt(520) - 10;
+            Range<Integer> range = randomRange(random, lowerbound, lowerbound + random.nextInt(100));
+
+            int count = 0;
+            long sum = 0;
+            Optional<Integer> min = Optional.empty(), max = Optional.empty();
+            for (Integer value : values) {
+                if (range.contains(value)) {
+                    count++;
+                    sum += value;
+                    min = Optional.of(min.map(m -> Math.min(m, value)).orElse(value));
+                    max = Optional.of(max.map(m -> Math.max(m, value)).orElse(value));
+                }
+            }
+
+            assertThat(updated.count(range)).isEqualTo(count);
+            assertThat(updated.sum(range)).isEqualTo(sum);
+            assertThat(updated.min(range)).isEqualTo(min);
+            assertThat(updated.max(range)).isEqualTo(max);
+
+            assertThat(mutable.count(range)).isEqualTo(count);
+            assertThat(mutable.sum(range)).isEqualTo(sum);
+            assertThat(mutable.min(range)).isEqualTo(min);
+            assertThat(mutable.max(range)).isEqualTo(max);
+        }
+    }
+
+    @Test
+    public void sum_should_not_lose_small_values_next_to_large_ones() {
+        List<Long> longs = Arrays.asList(-10_000_000_000_000_000L, 1L, 1L, 9_007_199_254_740_993L);
+        List<Double> doubles = Arrays.asList(-1e16, 1.0, 1.0);
+
+        assertThat(RangeAggregation.of(longs).sum(Range.closed(1L, 1L))).isEqualTo(2L);
+        assertThat(RangeAggregation.of(longs).sum(Range.atLeast(1L))).isEqualTo(9_007_199_254_740_995L);
+        assertThat(RangeAggregation.of(doubles).sum(Range.closed(1.0, 1.0))).isEqualTo(2.0);
+
+        MutableRangeAggregation<Long> mutableLongs = MutableRangeAggregation.of(longs);
+        assertThat(mutableLongs.sum(Range.closed(1L, 1L))).isEqualTo(2L);
+        assertThat(mutableLongs.sum(Range.atLeast(1L))).isEqualTo(9_007_199_254_740_995L);
+        assertThat(MutableRangeAggregation.of(doubles).sum(Range.closed(1.0, 1.0))).isEqualTo(2.0);
+    }
+
+    @Test
+    public void should_only_report_overflow_for_sums_that_overflow() {
+        long quarter = 1L << 62;
+        List<Long> values = Arrays.asList(Long.MAX_VALUE, quarter, quarter, -quarter, -quarter, 1L);
+        RangeAggregation<Long> aggregation = RangeAggregation.of(values);
+        MutableRangeAggregation<Long> mutable = MutableRangeAggregation.of(values);
+
+        assertThat(aggregation.count(Range.all())).isEqualTo(6);
+        assertThat(aggregation.min(Range.all())).isEqualTo(Optional.of(-quarter));
+        assertThat(aggregation.max(Range.all())).isEqualTo(Optional.of(Long.MAX_VALUE));
+        assertThat(aggregation.sum(Range.atMost(quarter))).isEqualTo(1L);
+        assertThatThrownBy(() -> aggregation.sum(Range.all())).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> aggregation.sum(Range.closed(quarter, quarter))).isInstanceOf(ArithmeticException.class);
+
+        assertThat(mutable.count(Range.all())).isEqualTo(6);
+        assertThat(mutable.min(Range.all())).isEqualTo(Optional.of(-quarter));
+        assertThat(mutable.max(Range.all())).isEqualTo(Optional.of(Long.MAX_VALUE));
+        assertThat(mutable.sum(Range.atMost(quarter))).isEqualTo(1L);
+        assertThatThrownBy(() -> mutable.sum(Range.all())).isInstanceOf(ArithmeticException.class);
+
+        mutable.set(5, 0L);
+        assertThat(mutable.sum(Range.all())).isEqualTo(Long.MAX_VALUE);
+        mutable.add(Long.MIN_VALUE);
+        assertThat(mutable.sum(Range.all())).isEqualTo(-1L);
+    }
+
+    private static Range<Integer> randomRange(Random random, int lowerbound, int upperbound) {
+        switch (random.nextInt(6)) {
+            case 0:
+                return Range.open(lowerbound, upperbound);
+            case 1:
+                return Range.closed(lowerbound, upperbound);
+            case 2:
+                return Range.openClosed(lowerbound, upperbound);
+            case 3:
+                return Range.closedOpen(lowerbound, upperbound);
+            case 4:
+                return Range.atMost(upperbound);
+            default:
+                return Range.greaterThan(lowerbound);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package io.mesoneer.interview_challenges;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class RangeCheckCoalescerTest {
+
+    @Test
+    public void concurrent_identical_checks_should_share_one_evaluation() throws Exception {
+        RangeCheckCoalescer coalescer = new RangeCheckCoalescer(60_000);
+        AtomicInteger evaluations = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<Range.Query, ResponseEntity<Range.Response>> evaluator = query -> {
+            evaluations.incrementAndGet();
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return ResponseEntity.ok(new Range.Response(true, null));
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<ResponseEntity<Range.Response>>> responses = new ArrayList<>();
+            responses.add(executor.submit(() -> coalescer.check(query("[1, 10]", "5"), evaluator)));
+            started.await();
+            for (int i = 0; i < 7; i++) {
+                responses.add(executor.submit(() -> coalescer.check(query("[1, 10]", "5"), evaluator)));
+            }
+            while (coalescer.metrics().requests < 8) {
+                Thread.sleep(1);
+            }
+            // Give the waiting checks time to reach the in-flight evaluation before it completes.
+            Thread.sleep(50);
+            release.countDown();
+
+            for (Future<ResponseEntity<Range.Response>> response : responses) {
+                assertThat(response.get(5, TimeUnit.SECONDS).getBody().result).isEqualTo(true);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(evaluations.get()).isEqualTo(1);
+        assertThat(coalescer.metrics().evaluations).isEqualTo(1);
+        assertThat(coalescer.metrics().coalescingRatio).isEqualTo(7.0 / 8);
+    }
+
+    @Test
+    public void concurrent_identical_checks_should_share_the_same_failure() throws Exception {
+        RangeCheckCoalescer coalescer = new RangeCheckCoalescer(60_000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<Range.Query, ResponseEntity<Range.Response>> evaluator = query -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IllegalStateException("Evaluation failed");
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<ResponseEntity<Range.Response>>> responses = new ArrayList<>();
+            responses.add(executor.submit(() -> coalescer.check(query("[1, 10]", "5"), evaluator)));
+            started.await();
+            for (int i = 0; i < 3; i++) {
+                responses.add(executor.submit(() -> coalescer.check(query("[1, 10]", "5"), evaluator)));
+            }
+            while (coalescer.metrics().requests < 4) {
+                Thread.sleep(1);
+            }
+            Thread.sleep(50);
+            release.countDown();
+
+            for (Future<ResponseEntity<Range.Response>> response : responses) {
+                try {
+                    response.get(5, TimeUnit.SECONDS);
+                    fail("Should share the failure of the evaluation");
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(IllegalStateException.class);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(coalescer.metrics().evaluations).isEqualTo(1);
+    }
+
+    @Test
+    public void should_reuse_response_within_window() throws Exception {
+        RangeCheckCoalescer coalescer = new RangeCheckCoalescer(60_000);
+        AtomicInteger evaluations = new AtomicInteger();
+        Function<Range.Query, ResponseEntity<Range.Response>> evaluator = query -> {
+            evaluations.incrementAndGet();
+            return ResponseEntity.ok(new Range.Response(false, null));
+        };
+
+        coalescer.check(query("[1, 10]", "11"), evaluator);
+        coalescer.check(query("[1, 10]", "11"), evaluator);
+        coalescer.check(query("[1, 10]", "12"), evaluator);
+
+        assertThat(evaluations.get()).isEqualTo(2);
+        assertThat(coalescer.metrics().requests).isEqualTo(3);
+        assertThat(coalescer.metrics().evaluations).isEqualTo(2);
+    }
+
+    @Test
+    public void should_evaluate_again_without_window() {
+        RangeCheckCoalescer coalescer = new RangeCheckCoalescer(0);
+        AtomicInteger evaluations = new AtomicInteger();
+        Function<Range.Query, ResponseEntity<Range.Response>> evaluator = query -> {
+            evaluations.incrementAndGet();
+            return ResponseEntity.ok(new Range.Response(true, null));
+        };
+
+        coalescer.check(query("[1, 10]", "5"), evaluator);
+        coalescer.check(query("[1, 10]", "5"), evaluator);
+
+        assertThat(evaluations.get()).isEqualTo(2);
+        assertThat(coalescer.metrics().coalescingRatio).isEqualTo(0.0);
+    }
+
+    @Test
+    public void should_drop_oldest_response_beyond_memo_size() {
+        RangeCheckCoalescer coalescer = new RangeCheckCoalescer(60_000);
+        AtomicInteger evaluations = new AtomicInteger();
+        Function<Range.Query, ResponseEntity<Range.Response>> evaluator = query -> {
+            evaluations.incrementAndGet();
+            return ResponseEntity.ok(new Range.Response(true, null));
+        };
+
+        for (int i = 0; i <= RangeCheckCoalescer.MAX_MEMO_SIZE; i++) {
+            coalescer.check(query("[1, 10]", String.valueOf(i)), evaluator);
+        }
+        coalescer.check(query("[1, 10]", "1"), evaluator);
+        coalescer.check(query("[1, 10]", "0"), evaluator);
+
+        assertThat(evaluations.get()).isEqualTo(RangeCheckCoalescer.MAX_MEMO_SIZE + 2);
+    }
+
+    @Test
+    public void should_throw_error__when_create_with_negative_window() {
+        try {
+            new RangeCheckCoalescer(-1);
+            fail("Should not allow a negative coalescing window");
+        } catch (IllegalArgumentException e) {
+            // pass
+        }
+    }
+
+    private static Range.Query query(String range, String value) {
+        Range.Query query = new Range.Query();
+        query.range = range;
+        query.value = value;
+        return query;
+    }
+}
@@ -0,0 +1,177 @@
+package io.mesoneer.interview_challenges;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.chrono.ChronoLocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class RangeJoinTest {
+
+    @Test
+    public void should_emit_overlapping_pairs() {
+        List<Range<Integer>> left = Arrays.asList(Range.closed(1, 5), Range.closed(10, 20));
+        List<Range<Integer>> right = Arrays.asList(Range.closed(3, 12), Range.closed(21, 30), Range.closed(15, 16));
+
+        assertThat(join(left, right)).containsExactlyInAnyOrder(
+                "[1, 5] x [3, 12]",
+                "[10, 20] x [3, 12]",
+                "[10, 20] x [15, 16]");
+    }
+
+    @Test
+    public void should_honor_open_and_closed_bounds() {
+        List<Range<Integer>> left = Arrays.asList(Range.closedOpen(1, 5), Range.closed(10, 20));
+        List<Range<Integer>> right = Arrays.asList(Range.closed(5, 6), Range.open(20, 30), Range.openClosed(0, 1),
+                Range.closed(20, 20));
+
+        assertThat(join(left, right)).containsExactlyInAnyOrder(
+                "[1, 5) x (0, 1]",
+                "[10, 20] x [20, 20]");
+    }
+
+    @Test
+    public void should_support_open_ended_ranges() {
+        List<Range<Integer>> left = Arrays.asList(Range.lessThan(0), Range.atLeast(100));
+        List<Range<Integer>> right = Arrays.asList(Range.all(), Range.closed(-5, 5), Range.atMost(100));
+
+        assertThat(join(left, right)).containsExactlyInAnyOrder(
+                "(Infinitive, 0) x [Infinitive, Infinitive]",
+                "(Infinitive, 0) x [-5, 5]",
+                "(Infinitive, 0) x (Infinitive, 100]",
+                "[100, Infinitive) x [Infinitive, Infinitive]",
+                "[100, Infinitive) x (Infinitive, 100]");
+    }
+
+    @Test
+    public void should_ignore_empty_ranges() {
+        List<Range<Integer>> left = Arrays.asList(Range.open(5, 5), Range.closedOpen(7, 7));
+        List<Range<Integer>> right = Collections.singletonList(Range.all());
+
+        assertThat(join(left, right)).isEmpty();
+    }
+
+    @Test
+    public void should_work_with_any_comparable_type() {
+        List<Range<ChronoLocalDate>> reservations = Arrays.asList(
+                Range.closedOpen(LocalDate.of(2024, Month.MARCH, 1), LocalDate.of(2024, Month.MARCH, 5)),
+                Range.closedOpen(LocalDate.of(2024, Month.MARCH, 5), LocalDate.of(2024, Month.MARCH, 9)));
+        List<Range<ChronoLocalDate>> maintenance = Collections.singletonList(
+                Range.closed(LocalDate.of(2024, Month.MARCH, 5), LocalDate.of(2024, Month.MARCH, 6)));
+
+        assertThat(join(reservations, maintenance)).containsExactly("[2024-03-05, 2024-03-09) x [2024-03-05, 2024-03-06]");
+    }
+
+    @Test
+    public void should_match_nested_loops() {
+        Random random = new Random(42);
+        List<Range<Double>> left = randomRanges(random, 300);
+        List<Range<Double>> right = randomRanges(random, 300);
+
+        // Bounds are whole numbers, so any overlap contains a whole or a half number.
+        List<String> expected = new ArrayList<>();
+        for (Range<Double> l : left) {
+            for (Range<Double> r : right) {
+                for (double value = 0; value <= 1010; value += 0.5) {
+                    if (l.contains(value) && r.contains(value)) {
+                        expected.add(l + " x " + r);
+                        break;
+                    }
+                }
+            }
+        }
+
+        assertThat(join(left, right)).containsExactlyInAnyOrder(expected.toArray(new String[0]));
+    }
+
+    @Test
+    public void parallel_join_should_emit_the_same_pairs() {
+        Random random = new Random(7);
+        List<Range<Double>> left = randomRanges(random, 5000);
+        List<Range<Double>> right = randomRanges(random, 5000);
+
+        ConcurrentLinkedQueue<String> pairs = new ConcurrentLinkedQueue<>();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            RangeJoin.parallelJoin(left, right, (l, r) -> pairs.add(l + " x " + r), pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertThat(pairs).containsExactlyInAnyOrder(join(left, right).toArray(new String[0]));
+    }
+
+    @Test
+    public void parallel_join_should_run_on_several_workers() {
+        Random random = new Random(11);
+        List<Range<Double>> left = randomRanges(random, 2000);
+        List<Range<Double>> right = randomRanges(random, 2000);
+        // A long range crossing every partition boundary has to be carried into each of them.
+        left.add(Range.closed(0.0, 1000.0));
+
+        Set<Thread> workers = ConcurrentHashMap.newKeySet();
+        CountDownLatch bothWorking = new CountDownLatch(2);
+        ConcurrentLinkedQueue<String> pairs = new ConcurrentLinkedQueue<>();
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            RangeJoin.parallelJoin(left, right, (l, r) -> {
+                if (workers.add(Thread.currentThread())) {
+                    // Hold the first worker until a second one has picked up another partition.
+                    bothWorking.countDown();
+                    try {
+                        bothWorking.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                pairs.add(l + " x " + r);
+            }, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertThat(workers.size()).isGreaterThan(1);
+        assertThat(pairs).containsExactlyInAnyOrder(join(left, right).toArray(new String[0]));
+    }
+
+    private static <T extends Comparable<T>> List<String> join(List<Range<T>> left, List<Range<T>> right) {
+        List<String> pairs = new ArrayList<>();
+        RangeJoin.join(left, right, (l, r) -> pairs.add(l + " x " + r));
+        return pairs;
+    }
+
+    private static List<Range<Double>> randomRanges(Random random, int count) {
+        List<Range<Double>> ranges = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            double lowerbound = random.nextInt(1000);
+            double upperbound = lowerbound + random.nextInt(10);
+            switch (random.nextInt(4)) {
+                case 0:
+                    ranges.add(Range.open(lowerbound, upperbound));
+                    break;
+                case 1:
+                    ranges.add(Range.closed(lowerbound, upperbound));
+                    break;
+                case 2:
+                    ranges.add(Range.openClosed(lowerbound, upperbound));
+                    break;
+                default:
+                    ranges.add(Range.closedOpen(lowerbound, upperbound));
+            }
+        }
+        return ranges;
+    }
+}